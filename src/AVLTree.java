@@ -1,7 +1,7 @@
 /**
  * This class implements an AVL Tree, a self-balancing binary search tree.
- * It ensures that the tree remains balanced after insertion operations
- * by performing necessary rotations.
+ * It ensures that the tree remains balanced after insertion and deletion
+ * operations by performing necessary rotations.
  */
 public class AVLTree implements AVLTreeInterface {
     private AVLNode root;
@@ -54,6 +54,42 @@ public class AVLTree implements AVLTreeInterface {
         root = null;
     }
 
+    /**
+     * Creates a new node for the given key.
+     * Subclasses may override this to attach extra per-node state.
+     *
+     * @param key The key to store in the node.
+     * @return The new node.
+     */
+    protected AVLNode createNode(int key) {
+        return new AVLNode(key);
+    }
+
+    /**
+     * Finds the node holding the given key.
+     *
+     * @param key The key to look up.
+     * @return The node holding the key, or null if the key is not present.
+     */
+    protected AVLNode findNode(int key) {
+        AVLNode node = root;
+        while (node != null && node.key != key) {
+            node = (key < node.key) ? node.left : node.right;
+        }
+        return node;
+    }
+
+    /**
+     * Checks whether a key is present in the AVL tree.
+     *
+     * @param key The key to look up.
+     * @return true if the key is present, false otherwise.
+     */
+    @Override
+    public boolean contains(int key) {
+        return findNode(key) != null;
+    }
+
     /**
      * Performs a right rotation on the given node.
      *
@@ -118,7 +154,7 @@ public class AVLTree implements AVLTreeInterface {
      */
     private AVLNode insert(AVLNode node, int key, StringBuilder steps) {
         if (node == null) {
-            return new AVLNode(key);
+            return createNode(key);
         }
 
         if (key < node.key) node.left = insert(node.left, key, steps);
@@ -160,6 +196,112 @@ public class AVLTree implements AVLTreeInterface {
         return node;
     }
 
+    /**
+     * Deletes a key from the AVL tree and rebalances the tree if necessary.
+     *
+     * @param key The key to delete.
+     * @return A string describing the deletion and rotations performed.
+     */
+    @Override
+    public String delete(int key) {
+        StringBuilder steps = new StringBuilder(" Delete " + key + ": ");
+        root = delete(root, key, steps);
+        if (steps.toString().endsWith(" Delete " + key + ": ")) {
+            steps.append("No rotation.");
+        }
+        return steps.toString();
+    }
+
+    /**
+     * Recursive function to delete a key from the AVL tree and update balance.
+     * A node with two children is replaced by its in-order successor node rather
+     * than by copying the successor's key, so surviving nodes keep their identity.
+     *
+     * @param node  the current node being checked
+     * @param key   the key to be deleted
+     * @param steps a StringBuilder to track deletion steps
+     * @return the balanced node after deletion
+     */
+    private AVLNode delete(AVLNode node, int key, StringBuilder steps) {
+        if (node == null) return null; // Key not present
+
+        if (key < node.key) node.left = delete(node.left, key, steps);
+        else if (key > node.key) node.right = delete(node.right, key, steps);
+        else {
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+
+            AVLNode successor = node.right;
+            while (successor.left != null) successor = successor.left;
+            successor.right = deleteMin(node.right, steps);
+            successor.left = node.left;
+            node = successor;
+        }
+
+        return rebalance(node, steps);
+    }
+
+    /**
+     * Removes the node with the smallest key from a subtree.
+     *
+     * @param node  the root of the subtree
+     * @param steps a StringBuilder to track deletion steps
+     * @return the balanced subtree without its smallest node
+     */
+    private AVLNode deleteMin(AVLNode node, StringBuilder steps) {
+        if (node.left == null) return node.right;
+        node.left = deleteMin(node.left, steps);
+        return rebalance(node, steps);
+    }
+
+    /**
+     * Updates the height of a node and performs the rotations needed to restore its balance.
+     *
+     * @param node  the node to rebalance
+     * @param steps a StringBuilder to track rotation steps
+     * @return the balanced node
+     */
+    private AVLNode rebalance(AVLNode node, StringBuilder steps) {
+        updateHeight(node);
+
+        int balance = getBalanceFactor(node);
+
+        if (balance > 1) {
+            // Left-Right Case (LR)
+            if (getBalanceFactor(node.left) < 0) {
+                appendStep(steps, "Left Rotation on Node: " + node.left.key);
+                node.left = leftRotate(node.left);
+            }
+            // Left-Left Case (LL)
+            appendStep(steps, "Right Rotation on Node: " + node.key);
+            return rightRotate(node);
+        }
+
+        if (balance < -1) {
+            // Right-Left Case (RL)
+            if (getBalanceFactor(node.right) > 0) {
+                appendStep(steps, "Right Rotation on Node: " + node.right.key);
+                node.right = rightRotate(node.right);
+            }
+            // Right-Right Case (RR)
+            appendStep(steps, "Left Rotation on Node: " + node.key);
+            return leftRotate(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Appends a rotation to the step description, separating it from earlier rotations.
+     *
+     * @param steps the StringBuilder tracking the steps
+     * @param step  the rotation to append
+     */
+    private void appendStep(StringBuilder steps, String step) {
+        if (steps.charAt(steps.length() - 2) != ':') steps.append(", ");
+        steps.append(step);
+    }
+
     /**
      * Performs a preorder traversal of the tree.
      *
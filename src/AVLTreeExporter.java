@@ -0,0 +1,341 @@
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exports AVL tree layouts to SVG or PNG without showing the live Swing panel.
+ * The layout and drawing come from {@link AVLTreeRenderer}, so exported images match
+ * the visualizer. SVG output is streamed node by node while the tree is walked, and
+ * PNG output can be split into tiles rendered in parallel for very large trees.
+ */
+public final class AVLTreeExporter {
+    /** The minimum image width, matching the demo window. */
+    public static final int MIN_WIDTH = 1400;
+
+    /** The maximum image width; wider layouts overflow the integer coordinates. */
+    public static final int MAX_WIDTH = 1 << 28;
+
+    /** The default edge length of a tile. */
+    public static final int DEFAULT_TILE_SIZE = 4096;
+
+    /** The horizontal spacing between sibling nodes on the deepest level. */
+    private static final int MIN_SIBLING_SPACING = 3 * AVLTreeRenderer.NODE_RADIUS;
+
+    /**
+     * The most levels a tree may have. Deeper trees would need more than {@link #MAX_WIDTH}
+     * to keep siblings on the deepest level at least one node diameter apart, so their nodes
+     * would overlap: at 23 levels they are 2^28 / 2^22 = 64 px apart, at 24 levels only 32 px.
+     * A tree of shuffled keys grows past this at roughly half a million keys.
+     */
+    public static final int MAX_LEVELS = 23;
+
+    /** Room reserved around a node for its circle and balance factor text. */
+    private static final int NODE_MARGIN = 50;
+
+    /** The largest image, in pixels, rendered in one piece (256 MB as RGB ints). */
+    public static final long MAX_IMAGE_PIXELS = 64L << 20;
+
+    private static final int DEFAULT_KEYS = 1000; // Keys inserted by the command-line entry point for svg and tiles
+    private static final int DEFAULT_PNG_KEYS = 100; // Keys inserted for png, which must fit in one image
+
+    private AVLTreeExporter() {
+    }
+
+    /**
+     * The entry point for batch exports. Builds a tree from shuffled keys and exports it.
+     *
+     * @param args The format ({@code svg}, {@code png} or {@code tiles}), the output file
+     *             (a directory for tiles), and optionally the number of keys to insert.
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length < 2) {
+            System.err.println("Usage: java AVLTreeExporter <svg|png|tiles> <output> [keys]");
+            System.exit(2);
+        }
+        int count = (args.length > 2) ? Integer.parseInt(args[2]) : args[0].equals("png") ? DEFAULT_PNG_KEYS : DEFAULT_KEYS;
+
+        // Insert shuffled keys so the tree shape resembles one built from real data
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) keys[i] = i;
+        Random random = new Random(42L);
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        AVLTree tree = new AVLTree();
+        for (int key : keys) tree.insert(key);
+
+        File output = new File(args[1]);
+        try {
+            int width = layoutWidth(tree.getRoot());
+            switch (args[0]) {
+                case "svg":
+                    try (Writer out = new BufferedWriter(new FileWriter(output))) {
+                        writeSvg(tree, out, width);
+                    }
+                    break;
+                case "png":
+                    writePng(tree, output, width);
+                    break;
+                case "tiles":
+                    long estimate = ((long) width + DEFAULT_TILE_SIZE - 1) / DEFAULT_TILE_SIZE
+                            * ((layoutHeight(tree.getRoot()) + DEFAULT_TILE_SIZE - 1) / DEFAULT_TILE_SIZE);
+                    System.out.println("Rendering " + estimate + " tile(s) for a " + width + " px wide layout");
+                    int tiles = writeTiles(tree, output, width, DEFAULT_TILE_SIZE, Runtime.getRuntime().availableProcessors());
+                    System.out.println("Wrote " + tiles + " tile(s) to " + output);
+                    break;
+                default:
+                    System.err.println("Unknown format: " + args[0]);
+                    System.exit(2);
+            }
+        } catch (IllegalArgumentException e) {
+            // The tree is too deep to lay out, or too large for a single image
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Returns an image width that places siblings on the deepest level
+     * {@link #MIN_SIBLING_SPACING} apart, clamped to [{@link #MIN_WIDTH}, {@link #MAX_WIDTH}].
+     * The child offset starts at a quarter of the width and halves at every level, so the
+     * width doubles with every level: each extra level doubles the size of the export.
+     * Trees deeper than {@link #MAX_LEVELS} are rejected rather than clamped, since the
+     * clamped layout would draw their deepest nodes on top of each other.
+     *
+     * @param root The root of the tree.
+     * @return The image width.
+     * @throws IllegalArgumentException If the tree has more than {@link #MAX_LEVELS} levels.
+     */
+    public static int layoutWidth(AVLNode root) {
+        int levels = (root == null) ? 0 : root.height;
+        if (levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("A tree of " + levels + " levels cannot be laid out without overlapping"
+                    + " nodes; at most " + MAX_LEVELS + " levels fit in " + MAX_WIDTH + " px");
+        }
+        // Siblings on the deepest level sit (width >> (levels - 1)) apart
+        long width = (long) MIN_SIBLING_SPACING << Math.max(0, Math.min(levels - 1, 31));
+        return (int) Math.max(MIN_WIDTH, Math.min(MAX_WIDTH, width));
+    }
+
+    /**
+     * Returns the image height needed to show every level of the tree.
+     *
+     * @param root The root of the tree.
+     * @return The image height.
+     */
+    public static int layoutHeight(AVLNode root) {
+        int levels = (root == null) ? 1 : root.height;
+        return AVLTreeRenderer.TOP_MARGIN + (levels - 1) * AVLTreeRenderer.LEVEL_HEIGHT + NODE_MARGIN + AVLTreeRenderer.TOP_MARGIN;
+    }
+
+    /**
+     * Streams the tree as an SVG document. Only the current path of the walk is held in
+     * memory, so the size of the tree is limited by the output, not by the heap.
+     *
+     * @param tree  The tree to export.
+     * @param out   The writer receiving the document.
+     * @param width The image width the layout is computed for.
+     * @throws IOException If writing fails.
+     */
+    public static void writeSvg(AVLTreeInterface tree, Writer out, int width) throws IOException {
+        AVLNode root = tree.getRoot();
+        int height = layoutHeight(root);
+
+        out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + width + "\" height=\"" + height
+                + "\" viewBox=\"0 0 " + width + " " + height + "\">\n");
+        out.write("<rect width=\"100%\" height=\"100%\" fill=\"" + hex(AVLTreeRenderer.BACKGROUND_COLOR) + "\"/>\n");
+        out.write("<g font-family=\"sans-serif\" font-size=\"" + AVLTreeRenderer.FONT_SIZE
+                + "\" text-anchor=\"middle\" stroke-width=\"2\">\n");
+
+        IOException[] failure = new IOException[1];
+        AVLTreeRenderer.layout(root, width / 2, AVLTreeRenderer.TOP_MARGIN, width / 4, (node, x, y, xOffset) -> {
+            if (failure[0] != null) return false; // Stop writing once the writer has failed
+            try {
+                writeSvgNode(tree, out, node, x, y, xOffset);
+                return true;
+            } catch (IOException e) {
+                failure[0] = e;
+                return false;
+            }
+        });
+        if (failure[0] != null) throw failure[0];
+
+        out.write("</g>\n</svg>\n");
+        out.flush();
+    }
+
+    /**
+     * Writes the edges to a node's children, followed by the node itself, in the same
+     * order {@link AVLTreeRenderer#drawTree} paints them.
+     *
+     * @param tree    The tree providing balance factors.
+     * @param out     The writer receiving the elements.
+     * @param node    The node to write.
+     * @param x       The x-coordinate of the node.
+     * @param y       The y-coordinate of the node.
+     * @param xOffset The horizontal offset of the node's children.
+     * @throws IOException If writing fails.
+     */
+    private static void writeSvgNode(AVLTreeInterface tree, Writer out, AVLNode node, int x, int y, int xOffset) throws IOException {
+        int childY = y + AVLTreeRenderer.LEVEL_HEIGHT;
+        String edgeColor = hex(AVLTreeRenderer.EDGE_COLOR);
+        if (node.left != null) {
+            out.write("<line x1=\"" + x + "\" y1=\"" + y + "\" x2=\"" + (x - xOffset) + "\" y2=\"" + childY
+                    + "\" stroke=\"" + edgeColor + "\"/>\n");
+        }
+        if (node.right != null) {
+            out.write("<line x1=\"" + x + "\" y1=\"" + y + "\" x2=\"" + (x + xOffset) + "\" y2=\"" + childY
+                    + "\" stroke=\"" + edgeColor + "\"/>\n");
+        }
+
+        out.write("<circle cx=\"" + x + "\" cy=\"" + y + "\" r=\"" + AVLTreeRenderer.NODE_RADIUS
+                + "\" fill=\"" + hex(AVLTreeRenderer.NODE_COLOR) + "\" stroke=\"" + hex(AVLTreeRenderer.BORDER_COLOR) + "\"/>\n");
+        out.write("<text x=\"" + x + "\" y=\"" + (y + AVLTreeRenderer.KEY_BASELINE) + "\" fill=\"" + hex(AVLTreeRenderer.KEY_COLOR) + "\">"
+                + node.key + "</text>\n");
+        out.write("<text x=\"" + x + "\" y=\"" + (y + AVLTreeRenderer.BALANCE_BASELINE) + "\" fill=\""
+                + hex(AVLTreeRenderer.BALANCE_COLOR) + "\">BF: " + tree.getBalanceFactor(node) + "</text>\n");
+    }
+
+    /**
+     * Renders the whole tree and writes it as a PNG image.
+     * The image is held in memory, so use {@link #writeTiles} for very wide layouts.
+     *
+     * @param tree   The tree to export.
+     * @param output The PNG file to write.
+     * @param width  The image width the layout is computed for.
+     * @throws IOException              If writing fails.
+     * @throws IllegalArgumentException If the image exceeds {@link #MAX_IMAGE_PIXELS}.
+     */
+    public static void writePng(AVLTreeInterface tree, File output, int width) throws IOException {
+        int height = layoutHeight(tree.getRoot());
+        if ((long) width * height > MAX_IMAGE_PIXELS) {
+            throw new IllegalArgumentException("A " + width + "x" + height + " image exceeds " + MAX_IMAGE_PIXELS
+                    + " pixels; export the tree as tiles instead");
+        }
+        Rectangle region = new Rectangle(0, 0, width, height);
+        ImageIO.write(renderRegion(tree, width, region), "png", output);
+    }
+
+    /**
+     * Splits the image into square tiles and renders them in parallel, writing each
+     * tile to {@code tile_<row>_<column>.png} in the output directory.
+     *
+     * @param tree      The tree to export. It must not be modified while tiles are rendered.
+     * @param directory The directory receiving the tiles.
+     * @param width     The image width the layout is computed for.
+     * @param tileSize  The edge length of a tile.
+     * @param threads   The number of tiles rendered at once.
+     * @return The number of tiles written.
+     * @throws IOException          If the directory cannot be created or a tile cannot be written.
+     * @throws InterruptedException If interrupted while waiting for the tiles.
+     */
+    public static int writeTiles(AVLTreeInterface tree, File directory, int width, int tileSize, int threads)
+            throws IOException, InterruptedException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create directory: " + directory);
+        }
+
+        int height = layoutHeight(tree.getRoot());
+        int rows = (height + tileSize - 1) / tileSize;
+        int columns = (width + tileSize - 1) / tileSize;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    Rectangle region = new Rectangle(column * tileSize, row * tileSize,
+                            Math.min(tileSize, width - column * tileSize), Math.min(tileSize, height - row * tileSize));
+                    File tile = new File(directory, "tile_" + row + "_" + column + ".png");
+                    futures.add(executor.submit(() -> {
+                        ImageIO.write(renderRegion(tree, width, region), "png", tile);
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IOException("Failed to render tile", e.getCause());
+                }
+            }
+            return futures.size();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Renders one region of the tree image into an offscreen image. Subtrees that
+     * cannot reach the region are skipped, so a tile only walks the nodes near it.
+     *
+     * @param tree   The tree to render.
+     * @param width  The image width the layout is computed for.
+     * @param region The region of the full image to render.
+     * @return The rendered region.
+     * @throws IllegalArgumentException If the region exceeds {@link #MAX_IMAGE_PIXELS}.
+     */
+    public static BufferedImage renderRegion(AVLTreeInterface tree, int width, Rectangle region) {
+        if ((long) region.width * region.height > MAX_IMAGE_PIXELS) {
+            throw new IllegalArgumentException("Region " + region.width + "x" + region.height
+                    + " exceeds " + MAX_IMAGE_PIXELS + " pixels");
+        }
+        BufferedImage image = new BufferedImage(region.width, region.height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setColor(AVLTreeRenderer.BACKGROUND_COLOR);
+            g2d.fillRect(0, 0, region.width, region.height);
+            g2d.translate(-region.x, -region.y);
+
+            AVLTreeRenderer.layout(tree.getRoot(), width / 2, AVLTreeRenderer.TOP_MARGIN, width / 4, (node, x, y, xOffset) -> {
+                // Descendants lie within twice the child offset on either side and below the node
+                long reach = 2L * xOffset + NODE_MARGIN;
+                if (x + reach < region.x || x - reach > region.x + region.width
+                        || y - NODE_MARGIN > region.y + region.height) {
+                    return false;
+                }
+
+                Point position = new Point(x, y);
+                int childY = y + AVLTreeRenderer.LEVEL_HEIGHT;
+                if (node.left != null) AVLTreeRenderer.drawEdge(g2d, position, new Point(x - xOffset, childY));
+                if (node.right != null) AVLTreeRenderer.drawEdge(g2d, position, new Point(x + xOffset, childY));
+                AVLTreeRenderer.drawNode(g2d, tree, node, position);
+                return true;
+            });
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Formats a color as an SVG hex color.
+     *
+     * @param color The color to format.
+     * @return The color as {@code #rrggbb}.
+     */
+    private static String hex(Color color) {
+        return String.format("#%06x", color.getRGB() & 0xFFFFFF);
+    }
+}
@@ -28,6 +28,22 @@ public interface AVLTreeInterface {
      */
     String insert(int key);
 
+    /**
+     * Deletes a key from the AVL tree and rebalances the tree if necessary.
+     *
+     * @param key The key to delete.
+     * @return A string describing the deletion and rotations performed.
+     */
+    String delete(int key);
+
+    /**
+     * Checks whether a key is present in the AVL tree.
+     *
+     * @param key The key to look up.
+     * @return true if the key is present, false otherwise.
+     */
+    boolean contains(int key);
+
     /**
      * Performs a preorder traversal of the tree.
      *
@@ -0,0 +1,168 @@
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Stroke;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lays out and draws AVL trees. The same layout and drawing code is used by the
+ * live {@link AVLTreeVisualizer} panel and by the offscreen {@link AVLTreeExporter}.
+ * A node is placed at the given position and its children one level lower, shifted
+ * left and right by an offset that halves at every level.
+ */
+public final class AVLTreeRenderer {
+    /** The y-coordinate of the root node. */
+    public static final int TOP_MARGIN = 50;
+
+    /** The vertical distance between levels. */
+    public static final int LEVEL_HEIGHT = 70;
+
+    /** The radius of a node circle. */
+    public static final int NODE_RADIUS = 20;
+
+    /** The offset of the balance factor baseline below the key baseline. */
+    public static final int BALANCE_OFFSET = 30;
+
+    /** The point size of the key and balance factor labels. */
+    public static final int FONT_SIZE = 12;
+
+    /** The font of the key and balance factor labels. */
+    public static final Font LABEL_FONT = new Font(Font.DIALOG, Font.PLAIN, FONT_SIZE);
+
+    /** The baseline of the key label below the node center: half the font's ascent, less 2 px. */
+    public static final int KEY_BASELINE = FONT_SIZE / 2 - 2;
+
+    /** The baseline of the balance factor label below the node center: the font's ascent plus the offset. */
+    public static final int BALANCE_BASELINE = FONT_SIZE + BALANCE_OFFSET;
+
+    static final Color BACKGROUND_COLOR = new Color(30, 30, 30);
+    static final Color EDGE_COLOR = new Color(100, 150, 255);
+    static final Color NODE_COLOR = new Color(255, 100, 100);
+    static final Color BORDER_COLOR = Color.WHITE;
+    static final Color KEY_COLOR = Color.WHITE;
+    static final Color BALANCE_COLOR = new Color(201, 100, 255);
+    private static final Stroke STROKE = new BasicStroke(2);
+
+    /**
+     * Receives each laid out node, in preorder.
+     */
+    public interface LayoutVisitor {
+        /**
+         * Visits a node at its layout position.
+         *
+         * @param node    The node being visited.
+         * @param x       The x-coordinate of the node.
+         * @param y       The y-coordinate of the node.
+         * @param xOffset The horizontal offset of the node's children.
+         * @return true to visit the node's children, false to skip its subtree.
+         */
+        boolean visit(AVLNode node, int x, int y, int xOffset);
+    }
+
+    private AVLTreeRenderer() {
+    }
+
+    /**
+     * Walks a subtree in preorder, passing each node's layout position to the visitor.
+     *
+     * @param node    The current node.
+     * @param x       The x-coordinate for positioning.
+     * @param y       The y-coordinate for positioning.
+     * @param xOffset The horizontal offset for child nodes.
+     * @param visitor The visitor receiving the positions.
+     */
+    public static void layout(AVLNode node, int x, int y, int xOffset, LayoutVisitor visitor) {
+        if (node == null || !visitor.visit(node, x, y, xOffset)) return;
+        layout(node.left, x - xOffset, y + LEVEL_HEIGHT, xOffset / 2, visitor);
+        layout(node.right, x + xOffset, y + LEVEL_HEIGHT, xOffset / 2, visitor);
+    }
+
+    /**
+     * Calculates the positions of the nodes of a subtree.
+     *
+     * @param node      The current node.
+     * @param x         The x-coordinate for positioning.
+     * @param y         The y-coordinate for positioning.
+     * @param xOffset   The horizontal offset for child nodes.
+     * @param positions The map receiving the node positions.
+     */
+    public static void calculateNodePositions(AVLNode node, int x, int y, int xOffset, Map<AVLNode, Point> positions) {
+        layout(node, x, y, xOffset, (n, nx, ny, offset) -> {
+            positions.put(n, new Point(nx, ny));
+            return true;
+        });
+    }
+
+    /**
+     * Recursively draws a subtree using the given node positions.
+     *
+     * @param g2d       The Graphics2D object used for rendering.
+     * @param tree      The tree providing balance factors.
+     * @param node      The current node being drawn.
+     * @param positions Supplies the position of each node.
+     */
+    public static void drawTree(Graphics2D g2d, AVLTreeInterface tree, AVLNode node, Function<AVLNode, Point> positions) {
+        if (node == null) return;
+
+        Point position = positions.apply(node);
+
+        // Draw edges
+        if (node.left != null) drawEdge(g2d, position, positions.apply(node.left));
+        if (node.right != null) drawEdge(g2d, position, positions.apply(node.right));
+
+        drawNode(g2d, tree, node, position);
+
+        // Recursively draw children
+        drawTree(g2d, tree, node.left, positions);
+        drawTree(g2d, tree, node.right, positions);
+    }
+
+    /**
+     * Draws an edge between two node positions.
+     *
+     * @param g2d  The Graphics2D object used for rendering.
+     * @param from The position of the parent node.
+     * @param to   The position of the child node.
+     */
+    public static void drawEdge(Graphics2D g2d, Point from, Point to) {
+        g2d.setStroke(STROKE);
+        g2d.setColor(EDGE_COLOR);
+        g2d.drawLine(from.x, from.y, to.x, to.y);
+    }
+
+    /**
+     * Draws a node with its key and balance factor.
+     *
+     * @param g2d      The Graphics2D object used for rendering.
+     * @param tree     The tree providing balance factors.
+     * @param node     The node to draw.
+     * @param position The position of the node.
+     */
+    public static void drawNode(Graphics2D g2d, AVLTreeInterface tree, AVLNode node, Point position) {
+        g2d.setStroke(STROKE);
+
+        // Draw node
+        g2d.setColor(NODE_COLOR);
+        g2d.fillOval(position.x - NODE_RADIUS, position.y - NODE_RADIUS, 2 * NODE_RADIUS, 2 * NODE_RADIUS);
+        g2d.setColor(BORDER_COLOR);
+        g2d.drawOval(position.x - NODE_RADIUS, position.y - NODE_RADIUS, 2 * NODE_RADIUS, 2 * NODE_RADIUS);
+
+        // Get font metrics for horizontal alignment
+        g2d.setFont(LABEL_FONT);
+        FontMetrics fm = g2d.getFontMetrics();
+
+        // Draw key
+        String keyStr = Integer.toString(node.key);
+        g2d.setColor(KEY_COLOR);
+        g2d.drawString(keyStr, position.x - fm.stringWidth(keyStr) / 2, position.y + KEY_BASELINE);
+
+        // Draw the balance factor text centered below the node
+        String balanceStr = "BF: " + tree.getBalanceFactor(node);
+        g2d.setColor(BALANCE_COLOR);
+        g2d.drawString(balanceStr, position.x - fm.stringWidth(balanceStr) / 2, position.y + BALANCE_BASELINE);
+    }
+}
@@ -0,0 +1,651 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * A differential stress harness for {@link AVLTreeInterface} implementations.
+ * Every implementation runs random and adversarial operation sequences while a
+ * {@link TreeSet} replays the same operations as an oracle. Lookups are compared
+ * on every operation, and the AVL invariants (heights, balance factors in [-1, 1],
+ * key ordering and contents) are checked periodically and at the end of each run.
+ * Capacity-bounded caches are also run with frequent evictions against an exact model
+ * of their eviction policy, so evicting the wrong key is reported as a violation.
+ * <p>
+ * Each run generates its operations up front. After the checked pass, the same operations
+ * are replayed without checks on fresh trees: first untimed to warm up the JIT, then timed.
+ * Timed replays run in rounds that all threads start together, and a round lasts until
+ * the last thread finishes. The reported throughput is the operations of all threads
+ * over the fastest round's wall-clock time, so it measures only the trees' own work.
+ */
+public class AVLTreeStressHarness {
+    private static final int DEFAULT_OPERATIONS = 1_000_000; // Operations per run
+    private static final int CHECK_INTERVAL = 50_000; // Operations between full invariant checks
+    private static final int MAX_REPORTED_VIOLATIONS = 5; // Violations kept per run
+    private static final long SEED = 42L; // Base seed, so failing runs can be reproduced
+    private static final int WARMUP_ROUNDS = 3; // Untimed replays before timing, after the checked pass
+    private static final int TIMED_ROUNDS = 3; // Timed rounds; the fastest is reported
+    private static final int EVICTION_KEY_FACTOR = 8; // Key range relative to cache capacity, so caches evict often
+
+    private static final byte INSERT = 0;
+    private static final byte DELETE = 1;
+    private static final byte LOOKUP = 2;
+
+    private static volatile int sink; // Keeps timed lookups from being optimized away
+
+    /**
+     * The operation sequences driven through each implementation.
+     */
+    private enum Workload {
+        /** Random inserts, deletes and lookups over a key range that keeps hits frequent. */
+        RANDOM,
+
+        /** Inserts increasing keys, then deletes them in the same order. */
+        ASCENDING,
+
+        /** Inserts decreasing keys, then deletes them in the same order. */
+        DESCENDING,
+
+        /** Inserts keys alternating between both ends of the range, then deletes them in the same order. */
+        ZIGZAG,
+
+        /** Inserts interleaved increasing runs, then deletes them in the same order. */
+        SAWTOOTH
+    }
+
+    /**
+     * A pre-generated sequence of operations.
+     */
+    private static final class Operations {
+        final int[] keys; // The key of each operation
+        final byte[] kinds; // INSERT, DELETE or LOOKUP
+
+        Operations(int count) {
+            keys = new int[count];
+            kinds = new byte[count];
+        }
+    }
+
+    /**
+     * The outcome of one or more runs of a workload against an implementation.
+     */
+    private static final class Result {
+        long operations; // Operations performed
+        long nanos; // Wall-clock time of the fastest timed round across all threads
+        long violations; // Invariant or oracle mismatches found
+        final List<String> messages = new ArrayList<>(); // The first violations found
+
+        /**
+         * Records a violation, keeping its message if fewer than the reported maximum are kept.
+         *
+         * @param message The description of the violation.
+         */
+        void violation(String message) {
+            violations++;
+            if (messages.size() < MAX_REPORTED_VIOLATIONS) messages.add(message);
+        }
+
+        /**
+         * Adds the operation and violation counts and messages of another result to this one.
+         *
+         * @param other The result to merge.
+         */
+        void merge(Result other) {
+            operations += other.operations;
+            violations += other.violations;
+            for (String message : other.messages) {
+                if (messages.size() < MAX_REPORTED_VIOLATIONS) messages.add(message);
+            }
+        }
+    }
+
+    /**
+     * Times rounds of work shared by several threads. Every thread waits for the others
+     * before a round starts, and the round ends when the last thread finishes it.
+     * A thread that fails leaves the clock, so the remaining threads are not left waiting.
+     */
+    private static final class RoundClock {
+        private final Phaser start; // Releases the threads together and stamps the start
+        private final Phaser end; // Waits for the slowest thread and records the round
+        private long roundStart; // Start of the current round
+        private long best = Long.MAX_VALUE; // Wall-clock time of the fastest round
+
+        RoundClock(int threads) {
+            start = new Phaser(threads) {
+                @Override
+                protected boolean onAdvance(int phase, int parties) {
+                    roundStart = System.nanoTime();
+                    return false;
+                }
+            };
+            end = new Phaser(threads) {
+                @Override
+                protected boolean onAdvance(int phase, int parties) {
+                    best = Math.min(best, System.nanoTime() - roundStart);
+                    return false;
+                }
+            };
+        }
+
+        /** Waits until every thread is ready to start the round. */
+        void startRound() {
+            start.arriveAndAwaitAdvance();
+        }
+
+        /** Waits until every thread has finished the round. */
+        void endRound() {
+            end.arriveAndAwaitAdvance();
+        }
+
+        /** Removes a failed thread from the clock. */
+        void leave() {
+            start.arriveAndDeregister();
+            end.arriveAndDeregister();
+        }
+
+        /**
+         * Returns the wall-clock time of the fastest round.
+         *
+         * @return The time in nanoseconds.
+         */
+        long best() {
+            return best;
+        }
+    }
+
+    /**
+     * An exact model of a {@link BoundedAVLCache}, used as the oracle for evicting runs.
+     * LRU and OLDEST keep keys in a LinkedHashMap in access or insertion order; LFU keeps
+     * keys in insertion-ordered sets per access count, least recently accessed first.
+     */
+    private static final class CacheOracle {
+        private final int capacity; // Maximum number of keys retained
+        private final EvictionPolicy policy; // Policy being modelled
+        private final LinkedHashMap<Integer, Boolean> ordered; // Keys in eviction order, for LRU and OLDEST
+        private final Map<Integer, Long> frequencies = new HashMap<>(); // Access count of each key, for LFU
+        private final TreeMap<Long, LinkedHashSet<Integer>> byFrequency = new TreeMap<>(); // Keys per access count, for LFU
+        long evictions = 0; // Keys evicted so far
+
+        CacheOracle(int capacity, EvictionPolicy policy) {
+            this.capacity = capacity;
+            this.policy = policy;
+            this.ordered = new LinkedHashMap<>(16, 0.75f, policy == EvictionPolicy.LRU);
+        }
+
+        /**
+         * Inserts a key, evicting the policy's victim first if the model is full.
+         * Inserting a present key counts as an access.
+         *
+         * @param key The key to insert.
+         */
+        void insert(int key) {
+            if (get(key)) return;
+            if (size() == capacity) {
+                evictions++;
+                if (policy == EvictionPolicy.LFU) {
+                    delete(byFrequency.firstEntry().getValue().iterator().next());
+                } else {
+                    delete(ordered.keySet().iterator().next());
+                }
+            }
+            if (policy == EvictionPolicy.LFU) {
+                frequencies.put(key, 0L);
+                byFrequency.computeIfAbsent(0L, _ -> new LinkedHashSet<>()).add(key);
+            } else {
+                ordered.put(key, Boolean.TRUE);
+            }
+        }
+
+        /**
+         * Removes a key.
+         *
+         * @param key The key to remove.
+         */
+        void delete(int key) {
+            if (policy == EvictionPolicy.LFU) {
+                Long frequency = frequencies.remove(key);
+                if (frequency != null) removeFromBucket(frequency, key);
+            } else {
+                ordered.remove(key);
+            }
+        }
+
+        /**
+         * Looks up a key, counting an access on a hit.
+         *
+         * @param key The key to look up.
+         * @return true if the key is present, false otherwise.
+         */
+        boolean get(int key) {
+            if (policy != EvictionPolicy.LFU) {
+                return ordered.get(key) != null; // Moves the key to the end in access order
+            }
+            Long frequency = frequencies.get(key);
+            if (frequency == null) return false;
+            removeFromBucket(frequency, key);
+            frequencies.put(key, frequency + 1);
+            byFrequency.computeIfAbsent(frequency + 1, _ -> new LinkedHashSet<>()).add(key);
+            return true;
+        }
+
+        /**
+         * Returns the number of keys retained.
+         *
+         * @return The number of keys.
+         */
+        int size() {
+            return (policy == EvictionPolicy.LFU) ? frequencies.size() : ordered.size();
+        }
+
+        /**
+         * Returns the retained keys in ascending order.
+         *
+         * @return The retained keys.
+         */
+        TreeSet<Integer> keys() {
+            return new TreeSet<>((policy == EvictionPolicy.LFU) ? frequencies.keySet() : ordered.keySet());
+        }
+
+        /**
+         * Removes a key from the set of its access count, dropping the set if it empties.
+         *
+         * @param frequency The access count of the key.
+         * @param key       The key to remove.
+         */
+        private void removeFromBucket(long frequency, int key) {
+            LinkedHashSet<Integer> bucket = byFrequency.get(frequency);
+            bucket.remove(key);
+            if (bucket.isEmpty()) byFrequency.remove(frequency);
+        }
+    }
+
+    /**
+     * The entry point of the harness.
+     *
+     * @param args Optional operations per run and number of threads; with more than
+     *             one thread each run is repeated on independent trees in parallel.
+     */
+    public static void main(String[] args) throws Exception {
+        int operations = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+        int threads = (args.length > 1) ? Integer.parseInt(args[1]) : 1;
+
+        // Implementations under test; add alternative engines here
+        Map<String, Supplier<AVLTreeInterface>> implementations = new LinkedHashMap<>();
+        implementations.put("AVLTree", AVLTree::new);
+        implementations.put("BoundedAVLCache", () -> new BoundedAVLCache(Integer.MAX_VALUE, EvictionPolicy.LRU));
+
+        System.out.printf("Running %d operations per run on %d thread(s)%n%n", operations, threads);
+        System.out.printf("%-16s %-11s %12s %14s %11s%n", "Implementation", "Workload", "Operations", "Ops/sec", "Violations");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long totalViolations = 0;
+        try {
+            for (Map.Entry<String, Supplier<AVLTreeInterface>> implementation : implementations.entrySet()) {
+                for (Workload workload : Workload.values()) {
+                    Supplier<AVLTreeInterface> factory = implementation.getValue();
+                    Result result = runParallel(executor, (seed, clock) -> run(factory, workload, operations, seed, clock), threads);
+                    totalViolations += report(implementation.getKey(), workload.toString(), result);
+                }
+            }
+
+            // Bounded caches evict on most inserts, exercising the eviction path of delete
+            for (EvictionPolicy policy : EvictionPolicy.values()) {
+                Result result = runParallel(executor, (seed, clock) -> runBounded(policy, operations, seed, clock), threads);
+                totalViolations += report("Cache " + policy, "EVICTING", result);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        System.out.println();
+        if (totalViolations > 0) {
+            System.out.println("---> " + totalViolations + " violation(s) found <---");
+            System.exit(1);
+        }
+        System.out.println("---> All invariants held <---");
+    }
+
+    /**
+     * Prints one row of the report, followed by the first violations of the run.
+     *
+     * @param implementation The name of the implementation.
+     * @param workload       The name of the workload.
+     * @param result         The result of the run.
+     * @return The number of violations found.
+     */
+    private static long report(String implementation, String workload, Result result) {
+        double opsPerSecond = result.operations / Math.max(result.nanos / 1e9, 1e-9);
+        System.out.printf("%-16s %-11s %12d %14.0f %11d%n",
+                implementation, workload, result.operations, opsPerSecond, result.violations);
+        for (String message : result.messages) {
+            System.out.println("    " + message);
+        }
+        return result.violations;
+    }
+
+    /**
+     * Runs a task on independent trees, one per thread, and merges the results.
+     * Each thread gets its own seed, so the threads exercise different sequences,
+     * and all threads share a clock so their timed rounds run concurrently.
+     *
+     * @param executor The executor running the threads.
+     * @param task     Runs one seeded run using the shared clock and returns its result.
+     * @param threads  The number of threads.
+     * @return The merged result; its time is the fastest round across all threads.
+     */
+    private static Result runParallel(ExecutorService executor, BiFunction<Long, RoundClock, Result> task,
+                                      int threads) throws Exception {
+        RoundClock clock = new RoundClock(threads);
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = SEED + t;
+            futures.add(executor.submit(() -> {
+                try {
+                    return task.apply(seed, clock);
+                } catch (RuntimeException | Error e) {
+                    clock.leave();
+                    throw e;
+                }
+            }));
+        }
+
+        Result merged = new Result();
+        for (Future<Result> future : futures) {
+            merged.merge(future.get());
+        }
+        merged.nanos = clock.best();
+        return merged;
+    }
+
+    /**
+     * Runs a workload against a tree and a TreeSet oracle, then benchmarks replays of the
+     * same operations on fresh trees.
+     *
+     * @param factory    Creates the trees under test.
+     * @param workload   The operation sequence to run.
+     * @param operations The number of operations to perform.
+     * @param seed       The seed for random choices.
+     * @param clock      The clock timing the replays.
+     * @return The result of the run.
+     */
+    private static Result run(Supplier<AVLTreeInterface> factory, Workload workload, int operations, long seed,
+                              RoundClock clock) {
+        Operations ops = generate(workload, operations, Math.max(16, operations / 4), seed);
+        Result result = new Result();
+        checkAgainstOracle(factory.get(), ops, result);
+        result.operations = operations;
+        benchmark(factory, ops, clock);
+        return result;
+    }
+
+    /**
+     * Runs random operations against a cache far smaller than the key range, so most
+     * inserts evict, while a {@link CacheOracle} replays the same operations. Lookup hits
+     * are compared on every operation; the contents, eviction count, size bookkeeping and
+     * AVL invariants are checked every {@link #CHECK_INTERVAL} operations. Replays of the
+     * same operations on fresh caches are then benchmarked.
+     *
+     * @param policy     The eviction policy of the cache.
+     * @param operations The number of operations to perform.
+     * @param seed       The seed for random choices.
+     * @param clock      The clock timing the replays.
+     * @return The result of the run.
+     */
+    private static Result runBounded(EvictionPolicy policy, int operations, long seed, RoundClock clock) {
+        int capacity = Math.max(16, operations / 64);
+        Operations ops = generate(Workload.RANDOM, operations, capacity * EVICTION_KEY_FACTOR, seed);
+        Result result = new Result();
+
+        BoundedAVLCache cache = new BoundedAVLCache(capacity, policy);
+        CacheOracle oracle = new CacheOracle(capacity, policy);
+        for (int i = 0; i < operations; i++) {
+            int key = ops.keys[i];
+            boolean found = apply(cache, ops.kinds[i], key);
+            if (ops.kinds[i] == INSERT) {
+                oracle.insert(key);
+            } else if (ops.kinds[i] == DELETE) {
+                oracle.delete(key);
+            } else if (found != oracle.get(key)) {
+                result.violation("Operation " + i + ": get(" + key + ") returned " + found);
+            }
+
+            if ((i + 1) % CHECK_INTERVAL == 0 || i == operations - 1) {
+                int nodes = checkInvariants(cache, oracle.keys(), i, result);
+                if (cache.size() > capacity) {
+                    result.violation("Operation " + i + ": size " + cache.size() + " exceeds capacity " + capacity);
+                }
+                if (cache.size() != nodes) {
+                    result.violation("Operation " + i + ": size " + cache.size() + " but tree has " + nodes + " nodes");
+                }
+                if (cache.getEvictions() != oracle.evictions) {
+                    result.violation("Operation " + i + ": " + cache.getEvictions() + " evictions, expected " + oracle.evictions);
+                }
+            }
+        }
+        if (operations > 2 * capacity && cache.getEvictions() == 0) {
+            result.violation("No evictions after " + operations + " operations");
+        }
+
+        result.operations = operations;
+        benchmark(() -> new BoundedAVLCache(capacity, policy), ops, clock);
+        return result;
+    }
+
+    /**
+     * Generates the operations of a workload.
+     *
+     * @param workload   The operation sequence to generate.
+     * @param operations The number of operations.
+     * @param keyRange   The range of random keys, used by the random workload.
+     * @param seed       The seed for random choices.
+     * @return The generated operations.
+     */
+    private static Operations generate(Workload workload, int operations, int keyRange, long seed) {
+        Operations ops = new Operations(operations);
+        Random random = new Random(seed);
+        int half = Math.max(1, operations / 2);
+
+        for (int i = 0; i < operations; i++) {
+            if (workload == Workload.RANDOM) {
+                ops.keys[i] = random.nextInt(keyRange);
+                int roll = random.nextInt(4);
+                ops.kinds[i] = (roll < 2) ? INSERT : (roll == 2) ? DELETE : LOOKUP;
+            } else {
+                // Insert the pattern during the first half, then delete it in the same order
+                ops.keys[i] = patternKey(workload, i % half, half);
+                ops.kinds[i] = (i < half) ? INSERT : DELETE;
+            }
+        }
+        return ops;
+    }
+
+    /**
+     * Performs one operation on a tree. Lookups on a cache go through
+     * {@link BoundedAVLCache#get(int)}, so they update the eviction policy.
+     *
+     * @param tree The tree to operate on.
+     * @param kind The kind of operation.
+     * @param key  The key of the operation.
+     * @return For lookups, whether the key was found; otherwise false.
+     */
+    private static boolean apply(AVLTreeInterface tree, byte kind, int key) {
+        switch (kind) {
+            case INSERT:
+                tree.insert(key);
+                return false;
+            case DELETE:
+                tree.delete(key);
+                return false;
+            default:
+                return (tree instanceof BoundedAVLCache cache) ? cache.get(key) : tree.contains(key);
+        }
+    }
+
+    /**
+     * Replays operations against a tree and a TreeSet oracle, checking lookups on every
+     * operation and the full invariants every {@link #CHECK_INTERVAL} operations.
+     *
+     * @param tree   The tree under test, initially empty.
+     * @param ops    The operations to replay.
+     * @param result The result recording any violations.
+     */
+    private static void checkAgainstOracle(AVLTreeInterface tree, Operations ops, Result result) {
+        TreeSet<Integer> oracle = new TreeSet<>();
+        int operations = ops.keys.length;
+
+        for (int i = 0; i < operations; i++) {
+            int key = ops.keys[i];
+            boolean expected = oracle.contains(key);
+            if (tree.contains(key) != expected) {
+                result.violation("Operation " + i + ": contains(" + key + ") returned " + !expected);
+            }
+
+            apply(tree, ops.kinds[i], key);
+            if (ops.kinds[i] == INSERT) oracle.add(key);
+            else if (ops.kinds[i] == DELETE) oracle.remove(key);
+
+            if ((i + 1) % CHECK_INTERVAL == 0 || i == operations - 1) {
+                checkInvariants(tree, oracle, i, result);
+            }
+        }
+    }
+
+    /**
+     * Replays operations on fresh trees, first untimed to warm up, then in timed rounds
+     * started together with the other threads sharing the clock.
+     *
+     * @param factory Creates the trees to replay on.
+     * @param ops     The operations to replay.
+     * @param clock   The clock timing the rounds.
+     */
+    private static void benchmark(Supplier<? extends AVLTreeInterface> factory, Operations ops, RoundClock clock) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            replay(factory.get(), ops);
+        }
+        for (int round = 0; round < TIMED_ROUNDS; round++) {
+            AVLTreeInterface tree = factory.get();
+            clock.startRound();
+            replay(tree, ops);
+            clock.endRound();
+        }
+    }
+
+    /**
+     * Replays operations against a tree without any checks.
+     *
+     * @param tree The tree to operate on, initially empty.
+     * @param ops  The operations to replay.
+     */
+    private static void replay(AVLTreeInterface tree, Operations ops) {
+        int found = 0;
+        for (int i = 0; i < ops.keys.length; i++) {
+            if (apply(tree, ops.kinds[i], ops.keys[i])) found++;
+        }
+        sink = found;
+    }
+
+    /**
+     * Returns the key at a position of an adversarial pattern.
+     *
+     * @param workload The adversarial workload.
+     * @param j        The position within the pattern.
+     * @param length   The length of the pattern.
+     * @return The key at that position.
+     */
+    private static int patternKey(Workload workload, int j, int length) {
+        switch (workload) {
+            case ASCENDING:
+                return j;
+            case DESCENDING:
+                return length - j;
+            case ZIGZAG:
+                return (j % 2 == 0) ? j / 2 : length - j / 2;
+            case SAWTOOTH:
+                int runs = 64;
+                return (j % runs) * (length / runs + 1) + j / runs;
+            default:
+                throw new IllegalArgumentException("Not a pattern workload: " + workload);
+        }
+    }
+
+    /**
+     * Checks the AVL invariants of a tree and, if an oracle is given, compares its contents with it.
+     *
+     * @param tree      The tree under test.
+     * @param oracle    The expected contents, or null to skip the comparison.
+     * @param operation The index of the last operation performed.
+     * @param result    The result recording any violations.
+     * @return The number of nodes in the tree.
+     */
+    private static int checkInvariants(AVLTreeInterface tree, TreeSet<Integer> oracle, int operation, Result result) {
+        Iterator<Integer> expected = (oracle == null) ? null : oracle.iterator();
+        int[] nodes = new int[1];
+        checkNode(tree, tree.getRoot(), Long.MIN_VALUE, Long.MAX_VALUE, expected, nodes, operation, result);
+        if (expected != null && expected.hasNext()) {
+            result.violation("Operation " + operation + ": key " + expected.next() + " missing from tree");
+        }
+        return nodes[0];
+    }
+
+    /**
+     * Recursively checks a subtree: stored heights, balance factors, key bounds,
+     * and that an inorder walk yields the same keys as the oracle, if one is given.
+     *
+     * @param tree      The tree under test.
+     * @param node      The root of the subtree.
+     * @param low       The exclusive lower bound for keys in the subtree.
+     * @param high      The exclusive upper bound for keys in the subtree.
+     * @param expected  The oracle keys not yet matched, in order, or null.
+     * @param nodes     A single-element counter of the nodes visited.
+     * @param operation The index of the last operation performed.
+     * @param result    The result recording any violations.
+     * @return The actual height of the subtree.
+     */
+    private static int checkNode(AVLTreeInterface tree, AVLNode node, long low, long high,
+                                 Iterator<Integer> expected, int[] nodes, int operation, Result result) {
+        if (node == null) return 0;
+
+        int leftHeight = checkNode(tree, node.left, low, node.key, expected, nodes, operation, result);
+        nodes[0]++;
+
+        if (node.key <= low || node.key >= high) {
+            result.violation("Operation " + operation + ": key " + node.key + " out of order");
+        }
+        if (expected != null) {
+            if (!expected.hasNext()) {
+                result.violation("Operation " + operation + ": unexpected key " + node.key);
+            } else {
+                int next = expected.next();
+                if (next != node.key) {
+                    result.violation("Operation " + operation + ": found key " + node.key + ", expected " + next);
+                }
+            }
+        }
+
+        int rightHeight = checkNode(tree, node.right, node.key, high, expected, nodes, operation, result);
+
+        int height = 1 + Math.max(leftHeight, rightHeight);
+        if (node.height != height) {
+            result.violation("Operation " + operation + ": node " + node.key + " has height "
+                    + node.height + ", expected " + height);
+        }
+        int balance = tree.getBalanceFactor(node);
+        if (balance != leftHeight - rightHeight || balance < -1 || balance > 1) {
+            result.violation("Operation " + operation + ": node " + node.key + " has balance factor "
+                    + balance + ", actual " + (leftHeight - rightHeight));
+        }
+        return height;
+    }
+}
@@ -17,14 +17,19 @@ public class AVLTreeVisualizer extends JPanel {
     private float animationProgress = 0f; // Progress of the animation (0 to 1)
     private final Map<AVLNode, Point> startPositions = new HashMap<>(); // Start positions for animations
     private final Map<AVLNode, Point> endPositions = new HashMap<>(); // End positions for animations
-    private JTextArea stepsArea; // Displays insertion steps
-    private JTextArea resultArea; // Displays traversal results
+    private final StepLogListModel stepLog = new StepLogListModel(); // Most recent insertion steps
+    private final TreeTextListModel resultLines; // Traversal results and final tree structure
+    private JList<String> stepsList; // Displays insertion steps
     private JComboBox<String> speedControl; // Controls animation speed
     private Timer insertTimer; // Timer for inserting keys
     private final int[] keys; // Keys to insert into the tree
     private int currentIndex = 0; // Current index in the keys array
     private boolean finalTree = false; // Flag to indicate if the final tree is displayed
 
+    /** The longest insertion step: a double rotation with the widest int keys. */
+    private static final int STEP_LINE_LENGTH = (" Insert " + Integer.MIN_VALUE + ": Left Rotation on Node: " + Integer.MIN_VALUE
+            + ", Right Rotation on Node: " + Integer.MIN_VALUE).length();
+
     /**
      * Constructs an AVLTreeVisualizer instance.
      *
@@ -34,9 +39,10 @@ public class AVLTreeVisualizer extends JPanel {
     public AVLTreeVisualizer(AVLTree tree, int[] keys) {
         this.tree = tree;
         this.keys = keys;
+        this.resultLines = new TreeTextListModel(tree);
 
         // Set up the GUI
-        setBackground(new Color(30, 30, 30)); // Dark background
+        setBackground(AVLTreeRenderer.BACKGROUND_COLOR); // Dark background
         setLayout(new BorderLayout());
 
         // Create the bottom panel for steps, results, and controls
@@ -84,8 +90,8 @@ public class AVLTreeVisualizer extends JPanel {
         stepsLabel.setBorder(BorderFactory.createEmptyBorder(10, 0, 10, 0)); // Add padding (top, left, bottom, right)
         stepsPanel.add(stepsLabel, BorderLayout.NORTH); // Add label at the top
 
-        stepsArea = createTextArea();
-        stepsPanel.add(createScrollPane(stepsArea), BorderLayout.CENTER); // Add text area below label
+        stepsList = createList(stepLog, STEP_LINE_LENGTH);
+        stepsPanel.add(createScrollPane(stepsList), BorderLayout.CENTER); // Add list below label
 
         stepsResultPanel.add(stepsPanel);
 
@@ -100,8 +106,8 @@ public class AVLTreeVisualizer extends JPanel {
         resultLabel.setBorder(BorderFactory.createEmptyBorder(10, 0, 10, 0)); // Add padding (top, left, bottom, right)
         resultPanel.add(resultLabel, BorderLayout.NORTH); // Add label at the top
 
-        resultArea = createTextArea();
-        resultPanel.add(createScrollPane(resultArea), BorderLayout.CENTER); // Add text area below label
+        JList<String> resultList = createList(resultLines, TreeTextListModel.MAX_LINE_LENGTH);
+        resultPanel.add(createScrollPane(resultList), BorderLayout.CENTER); // Add list below label
 
         stepsResultPanel.add(resultPanel);
 
@@ -126,27 +132,31 @@ public class AVLTreeVisualizer extends JPanel {
     }
 
     /**
-     * Creates a non-editable text area.
+     * Creates a read-only list of text lines backed by the given model.
+     * The cell size is fixed from a prototype line, so the list only asks
+     * the model for the lines that are visible.
      *
-     * @return A styled JTextArea.
+     * @param model      The model supplying the lines.
+     * @param lineLength The length of the longest line the model can supply.
+     * @return A styled JList.
      */
-    private JTextArea createTextArea() {
-        JTextArea textArea = new JTextArea();
-        textArea.setBackground(new Color(45, 45, 45));
-        textArea.setForeground(Color.WHITE);
-        textArea.setEditable(false);
-        textArea.setFont(new Font("Monospaced", Font.PLAIN, 16));
-        return textArea;
+    private JList<String> createList(ListModel<String> model, int lineLength) {
+        JList<String> list = new JList<>(model);
+        list.setBackground(new Color(45, 45, 45));
+        list.setForeground(Color.WHITE);
+        list.setFont(new Font("Monospaced", Font.PLAIN, 16));
+        list.setPrototypeCellValue("0".repeat(lineLength));
+        return list;
     }
 
     /**
-     * Wraps a text area inside a scroll pane.
+     * Wraps a component inside a scroll pane.
      *
-     * @param textArea The text area to wrap.
-     * @return A JScrollPane containing the text area.
+     * @param component The component to wrap.
+     * @return A JScrollPane containing the component.
      */
-    private JScrollPane createScrollPane(JTextArea textArea) {
-        JScrollPane scrollPane = new JScrollPane(textArea);
+    private JScrollPane createScrollPane(JComponent component) {
+        JScrollPane scrollPane = new JScrollPane(component);
         scrollPane.setPreferredSize(new Dimension(getWidth(), 150));
         return scrollPane;
     }
@@ -200,8 +210,8 @@ public class AVLTreeVisualizer extends JPanel {
     private void restartTree() {
         if (insertTimer != null) insertTimer.stop();
         tree.reset();
-        stepsArea.setText("");
-        resultArea.setText("");
+        stepLog.clear();
+        resultLines.clear();
         nodePositions.clear();
         startPositions.clear();
         endPositions.clear();
@@ -222,19 +232,11 @@ public class AVLTreeVisualizer extends JPanel {
                 currentIndex++;
             } else {
                 ((Timer) e.getSource()).stop();
-                resultArea.setText("\n ---> Insertion process completed <---\n");
-                resultArea.append("\n Pre-order  : " + tree.preorder() + "\n");
-                resultArea.append(" In-order   : " + tree.inorder() + "\n");
-                resultArea.append(" Post-order : " + tree.postorder() + "\n");
-                resultArea.append("\n Final tree structure:\n" + getTreeStructure(tree.getRoot()));
+                resultLines.refresh();
 
                 if (!finalTree) {
                     finalTree = true;
-                    System.out.println("---> Insertion process completed <---");
-                    System.out.println(" Preorder: " + tree.preorder());
-                    System.out.println(" Inorder: " + tree.inorder());
-                    System.out.println(" Postorder: " + tree.postorder());
-                    System.out.println("\nFinal tree structure:\n" + getTreeStructure(tree.getRoot()));
+                    printResult();
                 }
             }
         });
@@ -242,30 +244,14 @@ public class AVLTreeVisualizer extends JPanel {
     }
 
     /**
-     * Returns the tree structure as a formatted string.
-     * @param node The root node of the AVL tree.
-     * @return A string representation of the tree structure.
+     * Prints the traversal results and final tree structure to standard output.
+     * The lines are written by a background thread from a snapshot of the result pane,
+     * so printing a large tree neither blocks the UI nor races with a restart.
+     * Closing the window exits the program, which cuts off a print still in progress.
      */
-    private String getTreeStructure(AVLNode node) {
-        if (node == null) return "Tree is empty.";
-        StringBuilder sb = new StringBuilder();
-        getTreeStructureHelper(node, sb, 0);
-        return sb.toString();
-    }
-
-    /**
-     * Helper method to recursively build the tree structure string.
-     * @param node The current node being processed.
-     * @param sb The StringBuilder to store the tree structure.
-     * @param depth The depth level of the current node.
-     */
-    private void getTreeStructureHelper(AVLNode node, StringBuilder sb, int depth) {
-        if (node == null) return;
-        sb.append("|").append(depth).append("| ");
-        sb.append("  ".repeat(Math.max(0, depth)));
-        sb.append("Node: ").append(node.key).append(" (BF: ").append(tree.getBalanceFactor(node)).append(")\n");
-        getTreeStructureHelper(node.left, sb, depth + 1);
-        getTreeStructureHelper(node.right, sb, depth + 1);
+    private void printResult() {
+        TreeTextListModel printed = resultLines.snapshot();
+        new Thread(() -> printed.printTo(System.out), "avl-result-printer").start();
     }
 
     /**
@@ -276,62 +262,9 @@ public class AVLTreeVisualizer extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         if (tree.getRoot() != null) {
-            calculateNodePositions(tree.getRoot(), getWidth() / 2, 50, getWidth() / 4);
-            drawTree(g, tree.getRoot());
-        }
-    }
-
-    /**
-     * Recursively draws the AVL tree.
-     * @param g The Graphics object used for rendering.
-     * @param node The current node being drawn.
-     */
-    private void drawTree(Graphics g, AVLNode node) {
-        if (node == null) return;
-
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setStroke(new BasicStroke(2));
-
-        Point position = getAnimatedPosition(node);
-
-        // Draw edges
-        if (node.left != null) {
-            Point leftPosition = getAnimatedPosition(node.left);
-            g.setColor(new Color(100, 150, 255));
-            g.drawLine(position.x, position.y, leftPosition.x, leftPosition.y);
-        }
-        if (node.right != null) {
-            Point rightPosition = getAnimatedPosition(node.right);
-            g.setColor(new Color(100, 150, 255));
-            g.drawLine(position.x, position.y, rightPosition.x, rightPosition.y);
+            AVLTreeRenderer.calculateNodePositions(tree.getRoot(), getWidth() / 2, AVLTreeRenderer.TOP_MARGIN, getWidth() / 4, nodePositions);
+            AVLTreeRenderer.drawTree((Graphics2D) g, tree, tree.getRoot(), this::getAnimatedPosition);
         }
-
-        // Draw node
-        g2d.setColor(new Color(255, 100, 100)); // Node background color
-        g2d.fillOval(position.x - 20, position.y - 20, 40, 40);
-        g2d.setColor(Color.WHITE); // Border color
-        g2d.drawOval(position.x - 20, position.y - 20, 40, 40);
-
-        // Get font metrics for alignment
-        FontMetrics fm = g2d.getFontMetrics();
-
-        // Draw key
-        String keyStr = Integer.toString(node.key);
-        g2d.setColor(Color.WHITE); // Set text color for key
-        g2d.drawString(keyStr, position.x - fm.stringWidth(keyStr) / 2, position.y + fm.getAscent() / 2 - 2);
-
-        // Create balance factor string
-        String balanceStr = "BF: " + tree.getBalanceFactor(node);
-
-        // Set text color
-        g2d.setColor(new Color(201, 100, 255)); // Set the same color for both label and value
-
-        // Draw the balance factor text centered
-        g2d.drawString(balanceStr, position.x - fm.stringWidth(balanceStr) / 2, position.y + fm.getAscent() + 30);
-
-        // Recursively draw children
-        drawTree(g, node.left);
-        drawTree(g, node.right);
     }
 
     /**
@@ -350,20 +283,6 @@ public class AVLTreeVisualizer extends JPanel {
         return nodePositions.get(node);
     }
 
-    /**
-     * Calculates and updates the positions of nodes for visualization.
-     * @param node The current node.
-     * @param x The x-coordinate for positioning.
-     * @param y The y-coordinate for positioning.
-     * @param xOffset The horizontal offset for child nodes.
-     */
-    private void calculateNodePositions(AVLNode node, int x, int y, int xOffset) {
-        if (node == null) return;
-        nodePositions.put(node, new Point(x, y));
-        if (node.left != null) calculateNodePositions(node.left, x - xOffset, y + 70, xOffset / 2);
-        if (node.right != null) calculateNodePositions(node.right, x + xOffset, y + 70, xOffset / 2);
-    }
-
     /**
      * Animates rotations in the AVL tree.
      // * @param node The node around which the rotation occurs.
@@ -377,13 +296,14 @@ public class AVLTreeVisualizer extends JPanel {
         startPositions.putAll(nodePositions);
 
         // Calculate new positions after rotation
-        calculateNodePositions(tree.getRoot(), getWidth() / 2, 50, getWidth() / 4);
+        AVLTreeRenderer.calculateNodePositions(tree.getRoot(), getWidth() / 2, AVLTreeRenderer.TOP_MARGIN, getWidth() / 4, nodePositions);
 
         // Save new positions as end positions
         endPositions.putAll(nodePositions);
 
-        // Add step to the text area and start animation
-        stepsArea.append(step + "\n");
+        // Add step to the log and start animation
+        stepLog.add(step);
+        stepsList.ensureIndexIsVisible(stepLog.getSize() - 1);
         animationProgress = 0f;
         animationTimer.start();
     }
@@ -0,0 +1,281 @@
+import java.util.TreeMap;
+
+/**
+ * A capacity-bounded AVL tree that evicts keys according to an {@link EvictionPolicy}.
+ * Eviction removes keys through the regular AVL deletion, so the tree stays balanced.
+ * Each node is also linked into a recency list per access frequency, which lets the
+ * eviction victim be found without scanning the tree.
+ */
+public class BoundedAVLCache extends AVLTree {
+    /**
+     * Approximate heap size of one cached key: the node object with its key, height,
+     * child and list links and access count, assuming compressed references.
+     */
+    public static final long BYTES_PER_ENTRY = 48;
+
+    private final int capacity; // Maximum number of keys retained
+    private final EvictionPolicy policy; // Policy choosing the key to evict
+    private final TreeMap<Long, Bucket> buckets = new TreeMap<>(); // Recency lists keyed by access count
+    private CacheNode createdNode; // Node created by the last insertion, if any
+    private int size = 0; // Number of keys retained
+    private long hits = 0; // Lookups that found their key
+    private long misses = 0; // Lookups that did not find their key
+    private long evictions = 0; // Keys removed to stay within capacity
+
+    /**
+     * A tree node that also belongs to the recency list of its access count.
+     */
+    private static final class CacheNode extends AVLNode {
+        /** Number of accesses, only advanced under the LFU policy. */
+        long frequency;
+
+        /** Neighbours in the recency list of the node's bucket. */
+        CacheNode prev, next;
+
+        CacheNode(int key) {
+            super(key);
+        }
+    }
+
+    /**
+     * A recency list of nodes sharing an access count, least recent first.
+     */
+    private static final class Bucket {
+        CacheNode head, tail;
+    }
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param capacity The maximum number of keys to retain.
+     * @param policy   The policy choosing which key to evict when the cache is full.
+     */
+    public BoundedAVLCache(int capacity, EvictionPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Eviction policy must not be null");
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    /**
+     * Creates a node that can be tracked by the eviction policy.
+     *
+     * @param key The key to store in the node.
+     * @return The new node.
+     */
+    @Override
+    protected AVLNode createNode(int key) {
+        createdNode = new CacheNode(key);
+        return createdNode;
+    }
+
+    /**
+     * Inserts a key, first evicting a key chosen by the policy if the cache is full.
+     * Inserting a key that is already present counts as an access to it.
+     *
+     * @param key The key to insert.
+     * @return A string describing the insertion, rotations and any eviction.
+     */
+    @Override
+    public String insert(int key) {
+        createdNode = null;
+        String steps = super.insert(key);
+
+        if (createdNode == null) {
+            touch((CacheNode) findNode(key));
+            return steps;
+        }
+
+        CacheNode node = createdNode;
+        createdNode = null;
+
+        // Choose the victim before tracking the new key, so the new key is never evicted itself
+        if (size == capacity) {
+            CacheNode victim = buckets.firstEntry().getValue().head;
+            evictions++;
+            String deletion = delete(victim.key);
+            String rotations = deletion.substring(deletion.indexOf(": ") + 2);
+
+            // Continue the insertion's step list rather than starting a second " Delete k: " header
+            if (steps.endsWith(".")) steps = steps.substring(0, steps.length() - 1);
+            steps += ", Evicted " + victim.key;
+            if (!rotations.equals("No rotation.")) steps += " (" + rotations + ")";
+        }
+
+        link(node);
+        size++;
+        return steps;
+    }
+
+    /**
+     * Deletes a key and stops tracking it.
+     *
+     * @param key The key to delete.
+     * @return A string describing the deletion and rotations performed.
+     */
+    @Override
+    public String delete(int key) {
+        CacheNode node = (CacheNode) findNode(key);
+        String steps = super.delete(key);
+        if (node != null) {
+            unlink(node);
+            size--;
+        }
+        return steps;
+    }
+
+    /**
+     * Looks up a key, recording a hit or miss and counting an access on a hit.
+     * Use {@link #contains(int)} to check for a key without affecting the policy.
+     *
+     * @param key The key to look up.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean get(int key) {
+        CacheNode node = (CacheNode) findNode(key);
+        if (node == null) {
+            misses++;
+            return false;
+        }
+        hits++;
+        touch(node);
+        return true;
+    }
+
+    /**
+     * Removes all keys from the cache. The hit, miss and eviction counters are kept.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        buckets.clear();
+        size = 0;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /**
+     * Returns the number of keys retained.
+     *
+     * @return The number of keys in the cache.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of keys retained.
+     *
+     * @return The capacity of the cache.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the eviction policy of the cache.
+     *
+     * @return The eviction policy.
+     */
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns an approximation of the heap retained by the cached keys.
+     *
+     * @return The approximate retained size in bytes.
+     */
+    public long getRetainedBytes() {
+        return size * BYTES_PER_ENTRY;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of keys evicted to stay within capacity.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Records an access to a node according to the eviction policy.
+     *
+     * @param node The accessed node.
+     */
+    private void touch(CacheNode node) {
+        switch (policy) {
+            case LRU:
+                unlink(node);
+                link(node);
+                break;
+            case LFU:
+                unlink(node);
+                node.frequency++;
+                link(node);
+                break;
+            case OLDEST:
+                break; // Insertion order is not affected by accesses
+        }
+    }
+
+    /**
+     * Appends a node to the most recent end of the bucket for its access count.
+     *
+     * @param node The node to link.
+     */
+    private void link(CacheNode node) {
+        Bucket bucket = buckets.computeIfAbsent(node.frequency, _ -> new Bucket());
+        node.prev = bucket.tail;
+        node.next = null;
+        if (bucket.tail == null) bucket.head = node;
+        else bucket.tail.next = node;
+        bucket.tail = node;
+    }
+
+    /**
+     * Removes a node from the bucket for its access count, dropping the bucket if it empties.
+     *
+     * @param node The node to unlink.
+     */
+    private void unlink(CacheNode node) {
+        Bucket bucket = buckets.get(node.frequency);
+        if (node.prev == null) bucket.head = node.next;
+        else node.prev.next = node.next;
+        if (node.next == null) bucket.tail = node.prev;
+        else node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        if (bucket.head == null) buckets.remove(node.frequency);
+    }
+}
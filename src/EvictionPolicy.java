@@ -0,0 +1,14 @@
+/**
+ * The policies a {@link BoundedAVLCache} can use to choose which key to evict
+ * once it is full.
+ */
+public enum EvictionPolicy {
+    /** Evicts the key that was least recently inserted or looked up. */
+    LRU,
+
+    /** Evicts the key with the fewest accesses, breaking ties by least recent access. */
+    LFU,
+
+    /** Evicts the key that was inserted first, regardless of later accesses. */
+    OLDEST
+}
@@ -0,0 +1,88 @@
+import javax.swing.AbstractListModel;
+import java.util.Arrays;
+
+/**
+ * A list model holding the most recent insertion steps.
+ * Steps are kept in a fixed-size ring buffer, so once the capacity is reached
+ * the oldest step is dropped for every new one.
+ */
+public class StepLogListModel extends AbstractListModel<String> {
+    /** The default number of steps retained by the log. */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final String[] steps; // Ring buffer of retained steps
+    private int head = 0; // Index of the oldest retained step
+    private int count = 0; // Number of retained steps
+
+    /**
+     * Constructs a step log retaining at most {@link #DEFAULT_CAPACITY} steps.
+     */
+    public StepLogListModel() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a step log with the given retention capacity.
+     *
+     * @param capacity The maximum number of steps to retain.
+     */
+    public StepLogListModel(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.steps = new String[capacity];
+    }
+
+    /**
+     * Appends a step to the log, dropping the oldest step if the log is full.
+     *
+     * @param step The step description to append.
+     */
+    public void add(String step) {
+        if (count == steps.length) {
+            steps[head] = null;
+            head = (head + 1) % steps.length;
+            count--;
+            fireIntervalRemoved(this, 0, 0);
+        }
+        steps[(head + count) % steps.length] = step;
+        count++;
+        fireIntervalAdded(this, count - 1, count - 1);
+    }
+
+    /**
+     * Removes all steps from the log.
+     */
+    public void clear() {
+        if (count == 0) return;
+        int last = count - 1;
+        Arrays.fill(steps, null);
+        head = 0;
+        count = 0;
+        fireIntervalRemoved(this, 0, last);
+    }
+
+    /**
+     * Returns the number of retained steps.
+     *
+     * @return The number of steps in the log.
+     */
+    @Override
+    public int getSize() {
+        return count;
+    }
+
+    /**
+     * Returns the retained step at the given position, oldest first.
+     *
+     * @param index The position of the step.
+     * @return The step description.
+     */
+    @Override
+    public String getElementAt(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return steps[(head + index) % steps.length];
+    }
+}
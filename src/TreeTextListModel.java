@@ -0,0 +1,250 @@
+import javax.swing.AbstractListModel;
+import java.io.PrintStream;
+
+/**
+ * A list model presenting the traversal results and the structure of an AVL tree
+ * as lines of text. Refreshing the model only captures node references in traversal
+ * order; each line is formatted when it is requested, so a list backed by this model
+ * only builds the lines that are actually visible.
+ */
+public class TreeTextListModel extends AbstractListModel<String> {
+    /** The number of keys shown on a single traversal line. */
+    private static final int KEYS_PER_LINE = 16;
+
+    /** Lines preceding the traversal sections. */
+    private static final int HEADER_LINES = 3;
+
+    private static final String PREORDER_LABEL  = " Pre-order  : ";
+    private static final String INORDER_LABEL   = " In-order   : ";
+    private static final String POSTORDER_LABEL = " Post-order : ";
+    private static final String LABEL_INDENT    = " ".repeat(PREORDER_LABEL.length());
+
+    /**
+     * The length of the longest line the model can produce: a full traversal line of the
+     * widest int keys. Structure lines stay shorter, since AVL trees of int keys are at
+     * most about 45 levels deep.
+     */
+    public static final int MAX_LINE_LENGTH =
+            PREORDER_LABEL.length() + KEYS_PER_LINE * (Integer.toString(Integer.MIN_VALUE).length() + 1);
+
+    private final AVLTreeInterface tree; // The tree whose text is presented
+    private AVLNode[] preorderNodes = new AVLNode[0]; // Nodes in preorder, also used for the structure
+    private int[] preorderDepths = new int[0]; // Depth of each node in preorderNodes
+    private AVLNode[] inorderNodes = new AVLNode[0]; // Nodes in inorder
+    private AVLNode[] postorderNodes = new AVLNode[0]; // Nodes in postorder
+    private int traversalLines = 0; // Lines used by each traversal section
+    private int size = 0; // Total number of lines
+    private int fillIndex; // Next free slot while capturing a traversal
+
+    /**
+     * Constructs an empty model for the given tree.
+     *
+     * @param tree The AVL tree to present.
+     */
+    public TreeTextListModel(AVLTreeInterface tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * Returns a model holding the same lines as this one, unaffected by later refreshes
+     * or clears of this model. The captured arrays are shared rather than copied, since
+     * {@link #refresh()} and {@link #clear()} replace them instead of modifying them.
+     * The copy has no listeners, so it can be read from any thread.
+     *
+     * @return A snapshot of this model.
+     */
+    public TreeTextListModel snapshot() {
+        TreeTextListModel copy = new TreeTextListModel(tree);
+        copy.preorderNodes = preorderNodes;
+        copy.preorderDepths = preorderDepths;
+        copy.inorderNodes = inorderNodes;
+        copy.postorderNodes = postorderNodes;
+        copy.traversalLines = traversalLines;
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Captures the current shape of the tree and notifies listeners.
+     * Only node references are stored; no text is built here.
+     */
+    public void refresh() {
+        AVLNode root = tree.getRoot();
+        int count = countNodes(root);
+
+        preorderNodes = new AVLNode[count];
+        preorderDepths = new int[count];
+        inorderNodes = new AVLNode[count];
+        postorderNodes = new AVLNode[count];
+
+        fillIndex = 0;
+        capturePreorder(root, 0);
+        fillIndex = 0;
+        captureInorder(root);
+        fillIndex = 0;
+        capturePostorder(root);
+
+        traversalLines = Math.max(1, (count + KEYS_PER_LINE - 1) / KEYS_PER_LINE);
+        int oldSize = size;
+        // Header, three traversal sections, a blank line, the structure title and at least one structure line
+        size = HEADER_LINES + 3 * traversalLines + 2 + Math.max(1, count);
+
+        if (oldSize > 0) fireIntervalRemoved(this, 0, oldSize - 1);
+        fireIntervalAdded(this, 0, size - 1);
+    }
+
+    /**
+     * Releases the captured nodes and empties the model.
+     */
+    public void clear() {
+        preorderNodes = new AVLNode[0];
+        preorderDepths = new int[0];
+        inorderNodes = new AVLNode[0];
+        postorderNodes = new AVLNode[0];
+        traversalLines = 0;
+        int oldSize = size;
+        size = 0;
+        if (oldSize > 0) fireIntervalRemoved(this, 0, oldSize - 1);
+    }
+
+    /**
+     * Writes every line of the model to the given stream, one line at a time.
+     * The model must not be refreshed or cleared while it is being printed.
+     *
+     * @param out The stream to write to.
+     */
+    public void printTo(PrintStream out) {
+        for (int i = 0; i < size; i++) {
+            out.println(getElementAt(i));
+        }
+    }
+
+    /**
+     * Returns the number of lines in the model.
+     *
+     * @return The number of lines.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Builds the line at the given position.
+     *
+     * @param index The position of the line.
+     * @return The text of the line.
+     */
+    @Override
+    public String getElementAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (index < HEADER_LINES) {
+            return index == 1 ? " ---> Insertion process completed <---" : "";
+        }
+        index -= HEADER_LINES;
+
+        if (index < traversalLines) {
+            return traversalLine(PREORDER_LABEL, preorderNodes, index);
+        }
+        index -= traversalLines;
+
+        if (index < traversalLines) {
+            return traversalLine(INORDER_LABEL, inorderNodes, index);
+        }
+        index -= traversalLines;
+
+        if (index < traversalLines) {
+            return traversalLine(POSTORDER_LABEL, postorderNodes, index);
+        }
+        index -= traversalLines;
+
+        if (index == 0) return "";
+        if (index == 1) return " Final tree structure:";
+        index -= 2;
+
+        if (preorderNodes.length == 0) return "Tree is empty.";
+        return structureLine(index);
+    }
+
+    /**
+     * Builds one line of a traversal section.
+     *
+     * @param label The label of the traversal, shown on its first line.
+     * @param nodes The nodes in traversal order.
+     * @param line  The line within the section.
+     * @return The text of the line.
+     */
+    private String traversalLine(String label, AVLNode[] nodes, int line) {
+        StringBuilder sb = new StringBuilder(line == 0 ? label : LABEL_INDENT);
+        int end = Math.min(nodes.length, (line + 1) * KEYS_PER_LINE);
+        for (int i = line * KEYS_PER_LINE; i < end; i++) {
+            sb.append(nodes[i].key).append(" ");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Builds one line of the tree structure.
+     *
+     * @param position The preorder position of the node.
+     * @return The text of the line.
+     */
+    private String structureLine(int position) {
+        AVLNode node = preorderNodes[position];
+        int depth = preorderDepths[position];
+        return "|" + depth + "| " + "  ".repeat(depth)
+                + "Node: " + node.key + " (BF: " + tree.getBalanceFactor(node) + ")";
+    }
+
+    /**
+     * Counts the nodes of a subtree.
+     *
+     * @param node The root of the subtree.
+     * @return The number of nodes in the subtree.
+     */
+    private int countNodes(AVLNode node) {
+        if (node == null) return 0;
+        return 1 + countNodes(node.left) + countNodes(node.right);
+    }
+
+    /**
+     * Captures the nodes of a subtree in preorder along with their depths.
+     *
+     * @param node  The current node being visited.
+     * @param depth The depth level of the current node.
+     */
+    private void capturePreorder(AVLNode node, int depth) {
+        if (node == null) return;
+        preorderDepths[fillIndex] = depth;
+        preorderNodes[fillIndex++] = node;
+        capturePreorder(node.left, depth + 1);
+        capturePreorder(node.right, depth + 1);
+    }
+
+    /**
+     * Captures the nodes of a subtree in inorder.
+     *
+     * @param node The current node being visited.
+     */
+    private void captureInorder(AVLNode node) {
+        if (node == null) return;
+        captureInorder(node.left);
+        inorderNodes[fillIndex++] = node;
+        captureInorder(node.right);
+    }
+
+    /**
+     * Captures the nodes of a subtree in postorder.
+     *
+     * @param node The current node being visited.
+     */
+    private void capturePostorder(AVLNode node) {
+        if (node == null) return;
+        capturePostorder(node.left);
+        capturePostorder(node.right);
+        postorderNodes[fillIndex++] = node;
+    }
+}